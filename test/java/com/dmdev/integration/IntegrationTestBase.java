@@ -8,7 +8,7 @@ import java.sql.SQLException;
 
 public abstract class IntegrationTestBase {
 
-    private static final String CLEAN_SQL = "DELETE FROM subscription;";
+    private static final String CLEAN_SQL = "TRUNCATE TABLE subscription;";
     private static final String CREATE_SQL = """
             CREATE TABLE IF NOT EXISTS subscription
             (
@@ -22,12 +22,18 @@ public abstract class IntegrationTestBase {
             );
             """;
 
+    private static volatile boolean schemaCreated;
+
     @BeforeAll
-    static void prepareDatabase() throws SQLException {
+    static synchronized void prepareDatabase() throws SQLException {
+        if (schemaCreated) {
+            return;
+        }
         try (var connection = ConnectionManager.get();
              var statement = connection.createStatement()) {
             statement.execute(CREATE_SQL);
         }
+        schemaCreated = true;
     }
 
     @BeforeEach